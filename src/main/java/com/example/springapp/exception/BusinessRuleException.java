@@ -0,0 +1,8 @@
+package com.example.springapp.exception;
+
+public class BusinessRuleException extends DomainException {
+
+    BusinessRuleException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+}
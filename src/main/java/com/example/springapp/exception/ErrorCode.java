@@ -0,0 +1,44 @@
+package com.example.springapp.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.function.BiFunction;
+
+public enum ErrorCode {
+
+    USER_NOT_FOUND(HttpStatus.NOT_FOUND, "User not found", ResourceNotFoundException::new),
+    ACCOUNT_NOT_FOUND(HttpStatus.NOT_FOUND, "Account not found or not linked to user", ResourceNotFoundException::new),
+    EMAIL_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "Email already exists", BusinessRuleException::new),
+    ACCOUNT_CURRENCY_EXISTS(HttpStatus.BAD_REQUEST, "User already has an account in this currency", BusinessRuleException::new),
+    DEPOSIT_BELOW_MIN_EUR(HttpStatus.BAD_REQUEST, "Minimum deposit is 5 EUR", BusinessRuleException::new),
+    DEPOSIT_BELOW_MIN_LEVA(HttpStatus.BAD_REQUEST, "Minimum deposit is 10 LEVA", BusinessRuleException::new),
+    DEPOSIT_ABOVE_MAX_EUR(HttpStatus.BAD_REQUEST, "Maximum deposit is 5000 EUR - more than this should be in bank", BusinessRuleException::new),
+    DEPOSIT_ABOVE_MAX_LEVA(HttpStatus.BAD_REQUEST, "Maximum deposit is 10000 LEVA - more than this should be in bank", BusinessRuleException::new),
+    WITHDRAWAL_BELOW_MIN_EUR(HttpStatus.BAD_REQUEST, "Minimum withdrawal is 5 EUR", BusinessRuleException::new),
+    WITHDRAWAL_BELOW_MIN_LEVA(HttpStatus.BAD_REQUEST, "Minimum withdrawal is 10 LEVA", BusinessRuleException::new),
+    INVALID_CURRENCY_CONVERSION(HttpStatus.BAD_REQUEST, "Invalid currency conversion", BusinessRuleException::new),
+    INSUFFICIENT_FUNDS(HttpStatus.BAD_REQUEST, "Insufficient funds", BusinessRuleException::new);
+
+    private final HttpStatus status;
+    private final String message;
+    // One preallocated, stackless exception per code
+    private final DomainException exception;
+
+    ErrorCode(HttpStatus status, String message, BiFunction<ErrorCode, String, DomainException> type) {
+        this.status = status;
+        this.message = message;
+        this.exception = type.apply(this, message);
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public DomainException exception() {
+        return exception;
+    }
+}
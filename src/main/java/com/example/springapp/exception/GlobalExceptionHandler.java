@@ -1,17 +1,48 @@
 package com.example.springapp.exception;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // Bodies for domain errors never change, so they are serialized once at startup
+    private final Map<ErrorCode, ResponseEntity<byte[]>> domainErrorResponses = new EnumMap<>(ErrorCode.class);
+
+    public GlobalExceptionHandler(ObjectMapper objectMapper) {
+        for (ErrorCode code : ErrorCode.values()) {
+            Map<String, String> fields = new LinkedHashMap<>();
+            fields.put("code", code.name());
+            fields.put("error", code.getMessage());
+            byte[] body;
+            try {
+                body = objectMapper.writeValueAsBytes(fields);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize error body for " + code, e);
+            }
+            domainErrorResponses.put(code, ResponseEntity.status(code.getStatus())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body));
+        }
+    }
+
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<byte[]> handleDomainError(DomainException ex) {
+        return domainErrorResponses.get(ex.getErrorCode());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Map<String, String> handleValidationErrors(MethodArgumentNotValidException ex) {
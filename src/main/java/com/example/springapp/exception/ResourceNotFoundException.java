@@ -0,0 +1,8 @@
+package com.example.springapp.exception;
+
+public class ResourceNotFoundException extends DomainException {
+
+    ResourceNotFoundException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+}
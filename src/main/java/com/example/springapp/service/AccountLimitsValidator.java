@@ -0,0 +1,48 @@
+package com.example.springapp.service;
+
+import com.example.springapp.domain.Currency;
+import com.example.springapp.dto.AccountTransactionRequest;
+import com.example.springapp.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+@Component
+public class AccountLimitsValidator {
+
+    private static final BigDecimal MIN_EURO = new BigDecimal("5.00");
+    private static final BigDecimal MIN_LEVA = new BigDecimal("10.00");
+    private static final BigDecimal MAX_DEPOSIT_EURO = new BigDecimal("5000.00");
+    private static final BigDecimal MAX_DEPOSIT_LEVA = new BigDecimal("10000.00");
+
+    public void validateDeposit(AccountTransactionRequest request) {
+        Currency currency = request.getCurrency();
+        BigDecimal amount = request.getAmount();
+
+        // Currency-specific minimum validation
+        if (currency == Currency.EURO && amount.compareTo(MIN_EURO) < 0) {
+            throw ErrorCode.DEPOSIT_BELOW_MIN_EUR.exception();
+        } else if (currency == Currency.LEVA && amount.compareTo(MIN_LEVA) < 0) {
+            throw ErrorCode.DEPOSIT_BELOW_MIN_LEVA.exception();
+        }
+
+        // Currency-specific maximum validation
+        if (currency == Currency.EURO && amount.compareTo(MAX_DEPOSIT_EURO) > 0) {
+            throw ErrorCode.DEPOSIT_ABOVE_MAX_EUR.exception();
+        } else if (currency == Currency.LEVA && amount.compareTo(MAX_DEPOSIT_LEVA) > 0) {
+            throw ErrorCode.DEPOSIT_ABOVE_MAX_LEVA.exception();
+        }
+    }
+
+    public void validateWithdrawal(AccountTransactionRequest request) {
+        Currency currency = request.getCurrency();
+        BigDecimal amount = request.getAmount();
+
+        // Currency-specific minimum validation
+        if (currency == Currency.EURO && amount.compareTo(MIN_EURO) < 0) {
+            throw ErrorCode.WITHDRAWAL_BELOW_MIN_EUR.exception();
+        } else if (currency == Currency.LEVA && amount.compareTo(MIN_LEVA) < 0) {
+            throw ErrorCode.WITHDRAWAL_BELOW_MIN_LEVA.exception();
+        }
+    }
+}
@@ -6,9 +6,9 @@ import com.example.springapp.domain.User;
 import com.example.springapp.dto.AccountCreateRequest;
 import com.example.springapp.dto.AccountResponse;
 import com.example.springapp.dto.AccountTransactionRequest;
+import com.example.springapp.exception.ErrorCode;
 import com.example.springapp.repository.AccountRepository;
 import com.example.springapp.repository.UserRepository;
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,19 +20,22 @@ import java.math.RoundingMode;
 @RequiredArgsConstructor
 public class AccountService {
 
+    private static final BigDecimal LEVA_PER_EURO = new BigDecimal("2");
+
     private final UserRepository userRepository;
     private final AccountRepository accountRepository;
+    private final AccountLimitsValidator accountLimitsValidator;
 
     @Transactional
     public AccountResponse createAccount(Long userId, AccountCreateRequest request) {
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found"));
+                .orElseThrow(ErrorCode.USER_NOT_FOUND::exception);
 
         boolean exists = user.getAccounts().stream()
                 .anyMatch(acc -> acc.getCurrency() == request.getCurrency());
 
         if (exists) {
-            throw new IllegalArgumentException("User already has an account in this currency");
+            throw ErrorCode.ACCOUNT_CURRENCY_EXISTS.exception();
         }
 
         Account account = new Account();
@@ -53,35 +56,8 @@ public class AccountService {
     @Transactional
     public AccountResponse deposit(Long userId, Long accountId, AccountTransactionRequest request) {
         Account account = getVerifiedAccount(userId, accountId);
-
-        BigDecimal amount = request.getAmount();
-        Currency inputCurrency = request.getCurrency();
-        Currency accountCurrency = account.getCurrency();
-
-        // Currency-specific minimum validation
-        if (inputCurrency == Currency.EURO && amount.compareTo(new BigDecimal("5.00")) < 0) {
-            throw new IllegalArgumentException("Minimum deposit is 5 EUR");
-        } else if (inputCurrency == Currency.LEVA && amount.compareTo(new BigDecimal("10.00")) < 0) {
-            throw new IllegalArgumentException("Minimum deposit is 10 LEVA");
-        }
-
-        // Currency-specific maximum validation
-        if (inputCurrency == Currency.EURO && amount.compareTo(new BigDecimal("5000.00")) > 0) {
-            throw new IllegalArgumentException("Maximum deposit is 5000 EUR - more than this should be in bank");
-        } else if (inputCurrency == Currency.LEVA && amount.compareTo(new BigDecimal("10000.00")) > 0) {
-            throw new IllegalArgumentException("Maximum deposit is 10000 LEVA - more than this should be in bank");
-        }
-
-        if (inputCurrency != accountCurrency) {
-            // Apply auto conversion
-            if (inputCurrency == Currency.LEVA && accountCurrency == Currency.EURO) {
-                amount = amount.divide(new BigDecimal("2"), 2, RoundingMode.HALF_UP);
-            } else if (inputCurrency == Currency.EURO && accountCurrency == Currency.LEVA) {
-                amount = amount.multiply(new BigDecimal("2"));
-            } else {
-                throw new IllegalArgumentException("Invalid currency conversion");
-            }
-        }
+        accountLimitsValidator.validateDeposit(request);
+        BigDecimal amount = convert(request.getAmount(), request.getCurrency(), account.getCurrency());
 
         account.setBalance(account.getBalance().add(amount));
         Account updated = accountRepository.save(account);
@@ -92,31 +68,12 @@ public class AccountService {
     @Transactional
     public AccountResponse withdraw(Long userId, Long accountId, AccountTransactionRequest request) {
         Account account = getVerifiedAccount(userId, accountId);
+        accountLimitsValidator.validateWithdrawal(request);
+        BigDecimal amount = convert(request.getAmount(), request.getCurrency(), account.getCurrency());
 
-        Currency inputCurrency = request.getCurrency();
-        Currency accountCurrency = account.getCurrency();
-        BigDecimal amount = request.getAmount();
-
-        // Currency-specific minimum validation
-        if (inputCurrency == Currency.EURO && amount.compareTo(new BigDecimal("5.00")) < 0) {
-            throw new IllegalArgumentException("Minimum withdrawal is 5 EUR");
-        } else if (inputCurrency == Currency.LEVA && amount.compareTo(new BigDecimal("10.00")) < 0) {
-            throw new IllegalArgumentException("Minimum withdrawal is 10 LEVA");
-        }
-
-        // Auto conversion if needed
-        if (inputCurrency != accountCurrency) {
-            if (inputCurrency == Currency.LEVA && accountCurrency == Currency.EURO) {
-                amount = amount.divide(new BigDecimal("2"), 2, RoundingMode.HALF_UP);
-            } else if (inputCurrency == Currency.EURO && accountCurrency == Currency.LEVA) {
-                amount = amount.multiply(new BigDecimal("2"));
-            } else {
-                throw new IllegalArgumentException("Invalid currency");
-            }
-        }
-
+        // Balance is only modified after this check, so a rejection leaves nothing dirty to flush
         if (account.getBalance().compareTo(amount) < 0) {
-            throw new IllegalArgumentException("Insufficient funds");
+            throw ErrorCode.INSUFFICIENT_FUNDS.exception();
         }
 
         account.setBalance(account.getBalance().subtract(amount));
@@ -134,7 +91,20 @@ public class AccountService {
     private Account getVerifiedAccount(Long userId, Long accountId) {
         return accountRepository.findById(accountId)
                 .filter(acc -> acc.getUser().getId().equals(userId))
-                .orElseThrow(() -> new EntityNotFoundException("Account not found or not linked to user"));
+                .orElseThrow(ErrorCode.ACCOUNT_NOT_FOUND::exception);
+    }
+
+    private BigDecimal convert(BigDecimal amount, Currency from, Currency to) {
+        if (from == to) {
+            return amount;
+        }
+        // Apply auto conversion
+        if (from == Currency.LEVA && to == Currency.EURO) {
+            return amount.divide(LEVA_PER_EURO, 2, RoundingMode.HALF_UP);
+        } else if (from == Currency.EURO && to == Currency.LEVA) {
+            return amount.multiply(LEVA_PER_EURO);
+        }
+        throw ErrorCode.INVALID_CURRENCY_CONVERSION.exception();
     }
 
     private AccountResponse mapToResponse(Account account) {
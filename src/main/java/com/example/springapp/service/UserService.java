@@ -3,6 +3,7 @@ package com.example.springapp.service;
 import com.example.springapp.domain.User;
 import com.example.springapp.dto.UserCreateRequest;
 import com.example.springapp.dto.UserResponse;
+import com.example.springapp.exception.ErrorCode;
 import com.example.springapp.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -17,7 +18,7 @@ public class UserService {
     @Transactional
     public UserResponse createUser(UserCreateRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("Email already exists");
+            throw ErrorCode.EMAIL_ALREADY_EXISTS.exception();
         }
 
         User user = new User();
@@ -0,0 +1,32 @@
+package com.example.springapp;
+
+import com.example.springapp.domain.Account;
+import com.example.springapp.domain.Currency;
+import com.example.springapp.domain.User;
+import com.example.springapp.repository.AccountRepository;
+import com.example.springapp.repository.UserRepository;
+
+import java.math.BigDecimal;
+
+public final class TestAccounts {
+
+    private TestAccounts() {
+    }
+
+    // Clears both tables and saves one user with a 10.00 EUR account
+    public static Account saveEuroAccount(UserRepository userRepository, AccountRepository accountRepository) {
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = new User();
+        user.setName("Teodor");
+        user.setEmail("teo@dev.bg");
+        user.setAddress("Sofia");
+
+        Account account = new Account();
+        account.setUser(userRepository.save(user));
+        account.setCurrency(Currency.EURO);
+        account.setBalance(new BigDecimal("10.00"));
+        return accountRepository.save(account);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.springapp.benchmark;
+
+import com.example.springapp.TestAccounts;
+import com.example.springapp.domain.Account;
+import com.example.springapp.repository.AccountRepository;
+import com.example.springapp.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Measures rejected requests per second through the full MockMvc stack (security, controller, service, H2).
+ * Only HTTP status codes are asserted, so it can be run against older revisions (together with TestAccounts).
+ * Requests reuse an authenticated session: HTTP Basic re-checks a BCrypt hash on every request,
+ * which would otherwise dominate the measurement.
+ * Excluded from {@code test}; run with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "logging.level.root=WARN")
+@AutoConfigureMockMvc
+class RejectedRequestBenchmark {
+
+    private static final long WARMUP_MILLIS = Long.getLong("benchmark.warmupMillis", 10_000);
+    private static final long ROUND_MILLIS = Long.getLong("benchmark.roundMillis", 5_000);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 3);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    private MockHttpSession session;
+    private String accountPath;
+
+    @BeforeEach
+    void setUp() {
+        Account account = TestAccounts.saveEuroAccount(userRepository, accountRepository);
+
+        session = new MockHttpSession();
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(
+                        "user", null, AuthorityUtils.createAuthorityList("ROLE_USER"))));
+
+        accountPath = "/users/" + account.getUser().getId() + "/accounts/" + account.getId();
+    }
+
+    @Test
+    void depositBelowMinimum() throws Exception {
+        run("deposit below minimum", transaction(accountPath + "/deposit", "1.00"), 400);
+    }
+
+    @Test
+    void withdrawInsufficientFunds() throws Exception {
+        run("withdraw insufficient funds", transaction(accountPath + "/withdraw", "20.00"), 400);
+    }
+
+    @Test
+    void depositToMissingAccount() throws Exception {
+        run("deposit to missing account", transaction("/users/1/accounts/999999/deposit", "10.00"), 404);
+    }
+
+    private void run(String name, RequestBuilder request, int expectedStatus) throws Exception {
+        assertEquals(expectedStatus, mockMvc.perform(request).andReturn().getResponse().getStatus());
+
+        drive(request, WARMUP_MILLIS);
+        double[] rates = new double[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            rates[i] = drive(request, ROUND_MILLIS);
+        }
+        Arrays.sort(rates);
+
+        System.out.printf("BENCHMARK %-28s median %,10.0f req/s  (min %,.0f, max %,.0f, %d x %d ms)%n",
+                name, rates[ROUNDS / 2], rates[0], rates[ROUNDS - 1], ROUNDS, ROUND_MILLIS);
+    }
+
+    private double drive(RequestBuilder request, long millis) throws Exception {
+        long count = 0;
+        long start = System.nanoTime();
+        long deadline = start + millis * 1_000_000;
+        long now;
+        do {
+            mockMvc.perform(request);
+            count++;
+            now = System.nanoTime();
+        } while (now < deadline);
+        return count * 1e9 / (now - start);
+    }
+
+    private RequestBuilder transaction(String path, String amount) {
+        return post(path)
+                .session(session)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"currency\":\"EURO\",\"amount\":" + amount + "}");
+    }
+}
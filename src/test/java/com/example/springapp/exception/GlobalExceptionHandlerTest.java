@@ -0,0 +1,79 @@
+package com.example.springapp.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class GlobalExceptionHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(objectMapper);
+
+    @Test
+    void handleDomainError_shouldReturnBadRequestBody() throws Exception {
+        ResponseEntity<byte[]> response = handler.handleDomainError(ErrorCode.DEPOSIT_BELOW_MIN_EUR.exception());
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+
+        JsonNode body = objectMapper.readTree(response.getBody());
+        assertEquals("DEPOSIT_BELOW_MIN_EUR", body.get("code").asText());
+        assertEquals("Minimum deposit is 5 EUR", body.get("error").asText());
+    }
+
+    @Test
+    void handleDomainError_shouldReturnNotFoundBody() throws Exception {
+        ResponseEntity<byte[]> response = handler.handleDomainError(ErrorCode.ACCOUNT_NOT_FOUND.exception());
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+
+        JsonNode body = objectMapper.readTree(response.getBody());
+        assertEquals("ACCOUNT_NOT_FOUND", body.get("code").asText());
+        assertEquals("Account not found or not linked to user", body.get("error").asText());
+    }
+
+    @Test
+    void handleDomainError_shouldReuseCachedResponse() {
+        ResponseEntity<byte[]> first = handler.handleDomainError(ErrorCode.INSUFFICIENT_FUNDS.exception());
+        ResponseEntity<byte[]> second = handler.handleDomainError(ErrorCode.INSUFFICIENT_FUNDS.exception());
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void handleDomainError_shouldWriteBytesUnchanged() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new FailingController())
+                .setControllerAdvice(handler)
+                .build();
+        byte[] expected = handler.handleDomainError(ErrorCode.ACCOUNT_NOT_FOUND.exception()).getBody();
+
+        // A body re-encoded by Jackson would arrive as a quoted base64 string instead
+        mockMvc.perform(get("/fail/ACCOUNT_NOT_FOUND"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(expected))
+                .andExpect(jsonPath("$.code").value("ACCOUNT_NOT_FOUND"));
+    }
+
+    @RestController
+    static class FailingController {
+
+        @GetMapping("/fail/{code}")
+        String fail(@PathVariable ErrorCode code) {
+            throw code.exception();
+        }
+    }
+}
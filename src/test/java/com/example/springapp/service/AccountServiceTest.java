@@ -0,0 +1,101 @@
+package com.example.springapp.service;
+
+import com.example.springapp.domain.Account;
+import com.example.springapp.domain.Currency;
+import com.example.springapp.domain.User;
+import com.example.springapp.dto.AccountTransactionRequest;
+import com.example.springapp.exception.DomainException;
+import com.example.springapp.exception.ErrorCode;
+import com.example.springapp.repository.AccountRepository;
+import com.example.springapp.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AccountServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final AccountService accountService =
+            new AccountService(userRepository, accountRepository, new AccountLimitsValidator());
+
+    @Test
+    void deposit_shouldRejectBelowMinimumWithoutSaving() {
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(account(1L, Currency.EURO, "10.00")));
+
+        AccountTransactionRequest request = new AccountTransactionRequest(Currency.EURO, new BigDecimal("1.00"));
+
+        DomainException ex = assertThrows(DomainException.class, () -> accountService.deposit(1L, 1L, request));
+        assertEquals(ErrorCode.DEPOSIT_BELOW_MIN_EUR, ex.getErrorCode());
+        assertEquals("Minimum deposit is 5 EUR", ex.getMessage());
+        assertEquals(0, ex.getStackTrace().length); // expected failures carry no stack trace
+
+        verify(accountRepository, never()).save(any());
+    }
+
+    @Test
+    void deposit_shouldReportMissingAccountBeforeAmountLimits() {
+        when(accountRepository.findById(1L)).thenReturn(Optional.empty());
+
+        AccountTransactionRequest request = new AccountTransactionRequest(Currency.EURO, new BigDecimal("1.00"));
+
+        DomainException ex = assertThrows(DomainException.class, () -> accountService.deposit(1L, 1L, request));
+        assertEquals(ErrorCode.ACCOUNT_NOT_FOUND, ex.getErrorCode());
+    }
+
+    @Test
+    void deposit_shouldRejectAboveMaximum() {
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(account(1L, Currency.LEVA, "10.00")));
+
+        AccountTransactionRequest request = new AccountTransactionRequest(Currency.LEVA, new BigDecimal("10000.01"));
+
+        DomainException ex = assertThrows(DomainException.class, () -> accountService.deposit(1L, 1L, request));
+        assertEquals(ErrorCode.DEPOSIT_ABOVE_MAX_LEVA, ex.getErrorCode());
+    }
+
+    @Test
+    void withdraw_shouldRejectBelowMinimum() {
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(account(1L, Currency.LEVA, "100.00")));
+
+        AccountTransactionRequest request = new AccountTransactionRequest(Currency.LEVA, new BigDecimal("9.99"));
+
+        DomainException ex = assertThrows(DomainException.class, () -> accountService.withdraw(1L, 1L, request));
+        assertEquals(ErrorCode.WITHDRAWAL_BELOW_MIN_LEVA, ex.getErrorCode());
+    }
+
+    @Test
+    void withdraw_shouldRejectInsufficientFundsWithoutSaving() {
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(account(1L, Currency.EURO, "10.00")));
+
+        AccountTransactionRequest request = new AccountTransactionRequest(Currency.EURO, new BigDecimal("20.00"));
+
+        DomainException ex = assertThrows(DomainException.class, () -> accountService.withdraw(1L, 1L, request));
+        assertSame(ErrorCode.INSUFFICIENT_FUNDS.exception(), ex);
+
+        verify(accountRepository, never()).save(any());
+    }
+
+    @Test
+    void getBalance_shouldThrowWhenAccountBelongsToAnotherUser() {
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(account(2L, Currency.EURO, "10.00")));
+
+        DomainException ex = assertThrows(DomainException.class, () -> accountService.getBalance(1L, 1L));
+        assertEquals(ErrorCode.ACCOUNT_NOT_FOUND, ex.getErrorCode());
+    }
+
+    private static Account account(Long ownerId, Currency currency, String balance) {
+        User owner = new User();
+        owner.setId(ownerId);
+
+        Account account = new Account();
+        account.setId(1L);
+        account.setUser(owner);
+        account.setCurrency(currency);
+        account.setBalance(new BigDecimal(balance));
+        return account;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.springapp.service;
+
+import com.example.springapp.TestAccounts;
+import com.example.springapp.domain.Account;
+import com.example.springapp.domain.Currency;
+import com.example.springapp.dto.AccountTransactionRequest;
+import com.example.springapp.exception.DomainException;
+import com.example.springapp.exception.ErrorCode;
+import com.example.springapp.repository.AccountRepository;
+import com.example.springapp.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against a real transaction manager and reads Hibernate statistics,
+ * so a rejection that commits or flushes fails the test.
+ */
+@SpringBootTest
+class AccountServiceTransactionTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long userId;
+    private Long accountId;
+
+    @BeforeEach
+    void setUp() {
+        Account account = TestAccounts.saveEuroAccount(userRepository, accountRepository);
+        userId = account.getUser().getId();
+        accountId = account.getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void withdraw_insufficientFunds_shouldRollBackWithoutFlush() {
+        AccountTransactionRequest request = new AccountTransactionRequest(Currency.EURO, new BigDecimal("20.00"));
+
+        DomainException ex = assertThrows(DomainException.class,
+                () -> accountService.withdraw(userId, accountId, request));
+        assertEquals(ErrorCode.INSUFFICIENT_FUNDS, ex.getErrorCode());
+
+        assertEquals(1, statistics.getTransactionCount());
+        assertEquals(0, statistics.getSuccessfulTransactionCount()); // rolled back, not committed
+        assertEquals(0, statistics.getFlushCount());
+        assertEquals(0, statistics.getEntityUpdateCount());
+
+        assertEquals(0, new BigDecimal("10.00").compareTo(balance()));
+    }
+
+    @Test
+    void withdraw_shouldCommitAndFlushUpdate() {
+        accountService.withdraw(userId, accountId, new AccountTransactionRequest(Currency.EURO, new BigDecimal("5.00")));
+
+        // Control case: proves the statistics above would catch a commit or a flush
+        assertEquals(1, statistics.getSuccessfulTransactionCount());
+        assertEquals(1, statistics.getFlushCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+
+        assertEquals(0, new BigDecimal("5.00").compareTo(balance()));
+    }
+
+    private BigDecimal balance() {
+        return accountRepository.findById(accountId).orElseThrow().getBalance();
+    }
+}
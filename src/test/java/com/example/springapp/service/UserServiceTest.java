@@ -3,6 +3,8 @@ package com.example.springapp.service;
 import com.example.springapp.domain.User;
 import com.example.springapp.dto.UserCreateRequest;
 import com.example.springapp.dto.UserResponse;
+import com.example.springapp.exception.DomainException;
+import com.example.springapp.exception.ErrorCode;
 import com.example.springapp.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 
@@ -44,7 +46,8 @@ class UserServiceTest {
 
         UserCreateRequest request = new UserCreateRequest("Teodor", "teo@dev.bg", "Sofia");
 
-        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> userService.createUser(request));
+        DomainException ex = assertThrows(DomainException.class, () -> userService.createUser(request));
+        assertEquals(ErrorCode.EMAIL_ALREADY_EXISTS, ex.getErrorCode());
         assertEquals("Email already exists", ex.getMessage());
 
         verify(userRepository, never()).save(any()); // should not save if duplicate